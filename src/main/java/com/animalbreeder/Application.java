@@ -1,6 +1,7 @@
 package main.java.com.animalbreeder;
 
 import main.java.com.db.Animal;
+import main.java.com.db.BreederAggregate;
 import main.java.com.db.Database;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,10 +73,14 @@ public class Application {
             if (o1.getName().length() > o2.getName().length()) return 1;
             return 0;
         }).last());
-        logger.info("Which breeder has the fewest animals? {}", db.getPersons((o1, o2) -> {
-            if (o1.getAnimals().size() < o2.getAnimals().size()) return -1;
-            if (o1.getAnimals().size() > o2.getAnimals().size()) return 1;
-            return 0;
-        }).first());
+        logger.info("Which breeder has the fewest animals? {}", db.getLeaderboard(BreederAggregate.ANIMAL_COUNT).first());
+        logger.info("Which breeder's stock has the most descendants? {}", db.getLeaderboard(BreederAggregate.DESCENDANT_COUNT).last());
+        logger.info("Which breeder has the most inbred animals on average? {}", db.getLeaderboard(BreederAggregate.MEAN_INBREEDING).last());
+
+        logger.info("------------------------------------------------------------------------");
+
+        logger.info("Which animals have names starting with \"fr\"? {}", db.findAnimalsByPrefix("fr", 10));
+        logger.info("Which animals have names between \"B\" and \"G\"? {}", db.findAnimalsInRange("B", "G", 10));
+        logger.info("Which breeders are named like \"Christina\"? {}", db.findPersonsBySimilarName("Christina", 2, 10));
     }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import java.util.*;
  *   <li>{@link #addChild(Animal)} - Add a child to this animal.</li>
  *   <li>{@link #getNumberOfAncestors()} - Get the count of ancestors.</li>
  *   <li>{@link #getNumberOfDescendants()} - Get the count of descendants.</li>
+ *   <li>{@link #getInbreedingCoefficient()} - Get the inbreeding coefficient.</li>
  * </ul>
  * <p>
  * Note: Equality of animals depends solely on their {@code id}.
@@ -39,6 +40,8 @@ public class Animal implements Comparable<Animal> {
     private final Animal father;
     private final Animal mother;
     private final Map<Integer, Animal> children;
+    private final int generation;
+    private final double inbreedingCoefficient;
     private Person owner;
 
 
@@ -85,6 +88,8 @@ public class Animal implements Comparable<Animal> {
         this.father = father;
         this.mother = mother;
         this.children = children;
+        this.generation = Math.max(father == null ? -1 : father.generation, mother == null ? -1 : mother.generation) + 1;
+        this.inbreedingCoefficient = father != null && mother != null ? kinship(father, mother, new HashMap<>()) : 0.0;
     }
 
     public Person getOwner() {
@@ -110,6 +115,56 @@ public class Animal implements Comparable<Animal> {
         children.put(child.getId(), child);
     }
 
+    /**
+     * Indicates whether this animal is a founder, i.e. has neither a recorded father nor mother.
+     *
+     * @return {@code true} if the animal has no recorded parents, {@code false} otherwise.
+     */
+    public boolean isFounder() {
+        return father == null && mother == null;
+    }
+
+    /**
+     * Retrieves the inbreeding coefficient of this animal.
+     * <p>
+     * The coefficient is the coefficient of kinship between the father and the mother, computed once
+     * on construction since the parents never change. Animals with a missing parent have a coefficient of 0.
+     * </p>
+     *
+     * @return The inbreeding coefficient, between 0 and 1.
+     */
+    public double getInbreedingCoefficient() {
+        return inbreedingCoefficient;
+    }
+
+    /**
+     * Computes the coefficient of kinship between two animals.
+     * <p>
+     * The animal of the later generation is expanded into its parents, which cannot make it miss a
+     * common ancestor since an ancestor always belongs to an earlier generation than its descendants.
+     * </p>
+     *
+     * @param a    The first animal (nullable).
+     * @param b    The second animal (nullable).
+     * @param memo Already computed coefficients keyed by the pair of animal IDs.
+     * @return The coefficient of kinship between {@code a} and {@code b}.
+     */
+    private static double kinship(Animal a, Animal b, Map<Long, Double> memo) {
+        if (a == null || b == null) return 0.0;
+        if (a.equals(b)) return 0.5 * (1 + a.inbreedingCoefficient);
+        if (a.generation < b.generation) {
+            Animal swap = a;
+            a = b;
+            b = swap;
+        }
+        long key = ((long) a.id << 32) | (b.id & 0xFFFFFFFFL);
+        Double known = memo.get(key);
+        if (known != null) return known;
+        double result = 0.5 * (kinship(a.father, b, memo) + kinship(a.mother, b, memo));
+        memo.put(key, result);
+        return result;
+    }
+
 
     /**
      * Retrieves the children of this animal in a sorted set.
@@ -144,17 +199,19 @@ public class Animal implements Comparable<Animal> {
 
     /**
      * Recursively adds ancestors of the given animal to a {@code SortedSet}.
+     * <p>
+     * Ancestors already in the set are not visited again, so each ancestor is walked only once
+     * even when it appears on several lines of the pedigree.
+     * </p>
      *
      * @param animal    The animal whose ancestors are to be added.
      * @param ancestors The {@code SortedSet} to which ancestors will be added.
      */
     private void recursiveAncestorAdder(Animal animal, SortedSet<Animal> ancestors) {
-        if (animal.father != null) {
-            ancestors.add(animal.father);
+        if (animal.father != null && ancestors.add(animal.father)) {
             recursiveAncestorAdder(animal.father, ancestors);
         }
-        if (animal.mother != null) {
-            ancestors.add(animal.mother);
+        if (animal.mother != null && ancestors.add(animal.mother)) {
             recursiveAncestorAdder(animal.mother, ancestors);
         }
     }
@@ -175,14 +232,16 @@ public class Animal implements Comparable<Animal> {
 
     /**
      * Recursively adds descendants of the given animal to a {@code SortedSet}.
+     * <p>
+     * Descendants already in the set are not visited again.
+     * </p>
      *
      * @param animal      The animal whose descendants are to be added.
      * @param descendants The {@code SortedSet} to which descendants will be added.
      */
     private void recursiveChildrenAdder(Animal animal, SortedSet<Animal> descendants) {
         for (Map.Entry<Integer, Animal> child : animal.children.entrySet()) {
-            descendants.add(child.getValue());
-            recursiveChildrenAdder(child.getValue(), descendants);
+            if (descendants.add(child.getValue())) recursiveChildrenAdder(child.getValue(), descendants);
         }
     }
 
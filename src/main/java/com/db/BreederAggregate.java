@@ -0,0 +1,54 @@
+package main.java.com.db;
+
+import java.util.Comparator;
+
+/**
+ * The {@code BreederAggregate} enum lists the per-breeder figures that a {@link Person} keeps up to date
+ * while animals are added and traded.
+ * <p>
+ * Each constant provides an ascending {@link Comparator} over persons, tie-broken by name, which the
+ * {@link Database} uses to keep an ordered leaderboard of breeders per aggregate.
+ * </p>
+ *
+ * @see Database#getLeaderboard(BreederAggregate)
+ */
+public enum BreederAggregate {
+
+    /**
+     * The number of animals a breeder currently owns.
+     */
+    ANIMAL_COUNT(Comparator.comparingInt(Person::getNumberOfAnimals)),
+
+    /**
+     * The number of distinct descendants of the animals a breeder owns.
+     */
+    DESCENDANT_COUNT(Comparator.comparingInt(Person::getNumberOfDescendants)),
+
+    /**
+     * The number of owned animals without any recorded parent.
+     */
+    FOUNDER_COUNT(Comparator.comparingInt(Person::getNumberOfFounders)),
+
+    /**
+     * The mean inbreeding coefficient of a breeder's animals.
+     */
+    MEAN_INBREEDING(Comparator.comparingDouble(Person::getMeanInbreeding));
+
+    private final Comparator<Person> comparator;
+
+    BreederAggregate(Comparator<Person> comparator) {
+        this.comparator = comparator.thenComparing(Person::getName);
+    }
+
+    /**
+     * Retrieves the comparator ordering persons by this aggregate in ascending order.
+     * <p>
+     * Persons with equal values are ordered by their names, so two distinct breeders never compare as equal.
+     * </p>
+     *
+     * @return The comparator for this aggregate.
+     */
+    public Comparator<Person> comparator() {
+        return comparator;
+    }
+}
@@ -14,12 +14,17 @@ import java.util.*;
  *   <li>Manage collections of people and animals.</li>
  *   <li>Facilitate addition of new entities and ownership updates.</li>
  *   <li>Provide sorted access to stored entities with optional comparators.</li>
+ *   <li>Maintain leaderboards of breeders ordered by each {@link BreederAggregate}.</li>
+ *   <li>Look up people and animals by partial or misspelled names through a {@link NameIndex}.</li>
  * </ul>
  */
 public class Database {
 
     private final Map<String, Person> persons;
     private final Map<Integer, Animal> animals;
+    private final Map<BreederAggregate, NavigableSet<Person>> leaderboards;
+    private final NameIndex<Person> personNames;
+    private final NameIndex<Animal> animalNames;
 
     /**
      * Constructs a {@code Database} with empty collections of {@link Person} and {@link Animal}.
@@ -37,6 +42,16 @@ public class Database {
     public Database(Map<String, Person> persons, Map<Integer, Animal> animals) {
         this.persons = persons;
         this.animals = animals;
+        this.leaderboards = new EnumMap<>(BreederAggregate.class);
+        for (BreederAggregate aggregate : BreederAggregate.values()) {
+            NavigableSet<Person> leaderboard = new TreeSet<>(aggregate.comparator());
+            leaderboard.addAll(persons.values());
+            this.leaderboards.put(aggregate, leaderboard);
+        }
+        this.personNames = new NameIndex<>();
+        for (Person person : persons.values()) this.personNames.add(person.getName(), person);
+        this.animalNames = new NameIndex<>();
+        for (Animal animal : animals.values()) this.animalNames.add(animal.getName(), animal);
     }
 
     /**
@@ -46,7 +61,14 @@ public class Database {
      */
     public void addPerson(String name) {
         Person per = new Person(name);
+        Person previous = this.persons.get(per.getName());
+        if (previous != null) {
+            detach(Collections.singleton(previous));
+            this.personNames.remove(previous.getName(), previous);
+        }
         this.persons.put(per.getName(), per);
+        this.personNames.add(per.getName(), per);
+        attach(Collections.singleton(per));
     }
 
     /**
@@ -57,13 +79,30 @@ public class Database {
      * @param name   The name of the animal.
      * @param father The father of the animal (nullable).
      * @param mother The mother of the animal (nullable).
+     * @throws IllegalArgumentException If an animal with the given ID is already stored.
      */
     public void addAnimal(Person owner, int id, String name, Animal father, Animal mother) {
+        if (this.animals.containsKey(id))
+            throw new IllegalArgumentException("An animal with ID " + id + " is already stored");
         Animal newAnimal = new Animal(owner, id, name, father, mother);
+        SortedSet<Animal> ancestors = newAnimal.getAncestors();
+        Set<Person> affected = new HashSet<>();
+        affected.add(owner);
+        for (Animal ancestor : ancestors) {
+            if (ancestor.getOwner() != null) affected.add(ancestor.getOwner());
+        }
+        Set<Person> detached = detach(affected);
+
         this.animals.put(newAnimal.getId(), newAnimal);
+        this.animalNames.add(newAnimal.getName(), newAnimal);
         owner.add(newAnimal);
         if (father != null) father.addChild(newAnimal);
         if (mother != null) mother.addChild(newAnimal);
+        for (Animal ancestor : ancestors) {
+            if (ancestor.getOwner() != null) ancestor.getOwner().descendantAdded(newAnimal);
+        }
+
+        attach(detached);
     }
 
     /**
@@ -73,9 +112,61 @@ public class Database {
      * @param newOwner The new owner who will take ownership of the animal.
      */
     public void tradeAnimal(Animal animal, Person newOwner) {
+        Set<Person> detached = detach(Arrays.asList(animal.getOwner(), newOwner));
         animal.getOwner().remove(animal);
         animal.setOwner(newOwner);
         newOwner.add(animal);
+        attach(detached);
+    }
+
+    /**
+     * Retrieves the leaderboard of all stored {@link Person} entities for the given aggregate.
+     * <p>
+     * Persons are ordered ascending by the aggregate, so {@code first()} is the breeder with the lowest
+     * and {@code last()} the breeder with the highest value. The leaderboard is kept up to date as animals
+     * are added and traded, so these lookups take O(log n) instead of sorting all persons on every query.
+     * The returned set is a read-only live view.
+     * </p>
+     *
+     * @param aggregate The aggregate to order the persons by.
+     * @return A read-only {@code NavigableSet} of people, ordered by the given aggregate.
+     */
+    public NavigableSet<Person> getLeaderboard(BreederAggregate aggregate) {
+        return Collections.unmodifiableNavigableSet(this.leaderboards.get(aggregate));
+    }
+
+    /**
+     * Removes the given persons from all leaderboards before their aggregates change.
+     * <p>
+     * Persons not stored in this database are skipped.
+     * </p>
+     *
+     * @param people The persons whose aggregates are about to change.
+     * @return The persons that were removed and have to be passed to {@link #attach(Collection)} afterwards.
+     */
+    private Set<Person> detach(Collection<Person> people) {
+        Set<Person> detached = new HashSet<>();
+        for (Person person : people) {
+            if (person == null || this.persons.get(person.getName()) != person) continue;
+            for (NavigableSet<Person> leaderboard : this.leaderboards.values()) {
+                leaderboard.remove(person);
+            }
+            detached.add(person);
+        }
+        return detached;
+    }
+
+    /**
+     * Inserts the given persons into all leaderboards according to their current aggregates.
+     *
+     * @param people The persons to insert.
+     */
+    private void attach(Collection<Person> people) {
+        for (Person person : people) {
+            for (NavigableSet<Person> leaderboard : this.leaderboards.values()) {
+                leaderboard.add(person);
+            }
+        }
     }
 
     /**
@@ -139,12 +230,81 @@ public class Database {
      * @return The person with the specified name, or a placeholder if not found.
      */
     public Person getPerson(String name) {
-        for (Map.Entry<String, Person> entry : this.persons.entrySet()) {
-            if (entry.getKey().equals(name)) return entry.getValue();
-        }
+        Person person = this.persons.get(name);
+        if (person != null) return person;
         return new Person("Null");
     }
 
+    /**
+     * Retrieves the {@link Person} entities whose names start with the given prefix.
+     *
+     * @param prefix The prefix to look up, compared case-insensitively.
+     * @param limit  The maximum number of people to return.
+     * @return A list of at most {@code limit} people, ordered lexicographically by name.
+     */
+    public List<Person> findPersonsByPrefix(String prefix, int limit) {
+        return this.personNames.findByPrefix(prefix, limit);
+    }
+
+    /**
+     * Retrieves the {@link Person} entities whose names lie in the given range.
+     *
+     * @param from  The lower bound of the range (inclusive), compared case-insensitively.
+     * @param to    The upper bound of the range (exclusive), compared case-insensitively.
+     * @param limit The maximum number of people to return.
+     * @return A list of at most {@code limit} people, ordered lexicographically by name.
+     */
+    public List<Person> findPersonsInRange(String from, String to, int limit) {
+        return this.personNames.findInRange(from, to, limit);
+    }
+
+    /**
+     * Retrieves the {@link Person} entities whose names are within the given edit distance of a name.
+     *
+     * @param name        The name to look up, compared case-insensitively.
+     * @param maxDistance The maximum number of inserted, deleted or replaced characters.
+     * @param limit       The maximum number of people to return.
+     * @return A list of at most {@code limit} people, ordered by distance and then lexicographically by name.
+     */
+    public List<Person> findPersonsBySimilarName(String name, int maxDistance, int limit) {
+        return this.personNames.findSimilar(name, maxDistance, limit);
+    }
+
+    /**
+     * Retrieves the {@link Animal} entities whose names start with the given prefix.
+     *
+     * @param prefix The prefix to look up, compared case-insensitively.
+     * @param limit  The maximum number of animals to return.
+     * @return A list of at most {@code limit} animals, ordered lexicographically by name.
+     */
+    public List<Animal> findAnimalsByPrefix(String prefix, int limit) {
+        return this.animalNames.findByPrefix(prefix, limit);
+    }
+
+    /**
+     * Retrieves the {@link Animal} entities whose names lie in the given range.
+     *
+     * @param from  The lower bound of the range (inclusive), compared case-insensitively.
+     * @param to    The upper bound of the range (exclusive), compared case-insensitively.
+     * @param limit The maximum number of animals to return.
+     * @return A list of at most {@code limit} animals, ordered lexicographically by name.
+     */
+    public List<Animal> findAnimalsInRange(String from, String to, int limit) {
+        return this.animalNames.findInRange(from, to, limit);
+    }
+
+    /**
+     * Retrieves the {@link Animal} entities whose names are within the given edit distance of a name.
+     *
+     * @param name        The name to look up, compared case-insensitively.
+     * @param maxDistance The maximum number of inserted, deleted or replaced characters.
+     * @param limit       The maximum number of animals to return.
+     * @return A list of at most {@code limit} animals, ordered by distance and then lexicographically by name.
+     */
+    public List<Animal> findAnimalsBySimilarName(String name, int maxDistance, int limit) {
+        return this.animalNames.findSimilar(name, maxDistance, limit);
+    }
+
     /**
      * Retrieves an {@link Animal} from the database by its unique ID.
      *
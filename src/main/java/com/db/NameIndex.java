@@ -0,0 +1,320 @@
+package main.java.com.db;
+
+import java.util.*;
+
+/**
+ * The {@code NameIndex} class is a compact (radix) trie over the names of stored entities.
+ * <p>
+ * Names are indexed case-insensitively. Chains of nodes with a single child are collapsed into one
+ * node labelled with the whole chain, and nodes only allocate their children and entries once they
+ * have any. Each node keeps its children in a {@code TreeMap}, so every lookup walks only the part of
+ * the trie that can contain matches, yields them in lexicographic order and stops as soon as the
+ * requested number of matches has been found.
+ * </p>
+ *
+ * <b>Main Features:</b>
+ * <ul>
+ *   <li>Incremental insertion and removal of named entries.</li>
+ *   <li>Prefix lookup for partially typed names.</li>
+ *   <li>Range lookup between two names.</li>
+ *   <li>Lookup of similar names within a bounded edit distance.</li>
+ * </ul>
+ *
+ * @param <T> The type of the indexed entities.
+ * @see Database
+ */
+public class NameIndex<T> {
+
+    private final Node<T> root;
+
+    /**
+     * Constructs an empty {@code NameIndex}.
+     */
+    public NameIndex() {
+        this.root = new Node<>("");
+    }
+
+    /**
+     * Adds an entry to the index under the given name.
+     * <p>
+     * Entries without a name are not indexed.
+     * </p>
+     *
+     * @param name  The name of the entry.
+     * @param entry The entry to be added.
+     */
+    public void add(String name, T entry) {
+        if (name == null) return;
+        String key = normalize(name);
+        Node<T> node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node<T> child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node<>(key.substring(i));
+                node.putChild(child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node<T> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.putChild(child);
+                node.putChild(split);
+                child = split;
+            }
+            node = child;
+            i += common;
+        }
+        if (node.entries == null) node.entries = new ArrayList<>(1);
+        node.entries.add(entry);
+    }
+
+    /**
+     * Removes an entry stored under the given name from the index.
+     * <p>
+     * Nodes left without entries and children are pruned, and a node left with a single child
+     * is merged with it, so removals do not leave dead branches behind.
+     * </p>
+     *
+     * @param name  The name the entry was added with.
+     * @param entry The entry to be removed.
+     * @return {@code true} if the entry was found and removed, {@code false} otherwise.
+     */
+    public boolean remove(String name, T entry) {
+        if (name == null) return false;
+        String key = normalize(name);
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null || !key.startsWith(node.label, i)) return false;
+            i += node.label.length();
+            path.add(node);
+        }
+        if (node.entries == null || !node.entries.remove(entry)) return false;
+        if (node.entries.isEmpty()) node.entries = null;
+
+        int depth = path.size() - 1;
+        while (depth > 0 && node.entries == null && node.children == null) {
+            Node<T> parent = path.get(depth - 1);
+            parent.removeChild(node);
+            node = parent;
+            depth--;
+        }
+        if (depth > 0) node.mergeWithOnlyChild();
+        return true;
+    }
+
+    /**
+     * Retrieves the entries whose names start with the given prefix.
+     *
+     * @param prefix The prefix to look up, compared case-insensitively.
+     * @param limit  The maximum number of entries to return.
+     * @return A list of at most {@code limit} entries, ordered lexicographically by name.
+     */
+    public List<T> findByPrefix(String prefix, int limit) {
+        List<T> result = new ArrayList<>();
+        String key = normalize(prefix);
+        Node<T> node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null) return result;
+            // the prefix may end inside the node's label, in which case the whole subtree matches
+            int length = Math.min(node.label.length(), key.length() - i);
+            if (!node.label.regionMatches(0, key, i, length)) return result;
+            i += length;
+        }
+        collect(node, limit, result);
+        return result;
+    }
+
+    /**
+     * Retrieves the entries whose names lie in the given range.
+     *
+     * @param from  The lower bound of the range (inclusive), compared case-insensitively.
+     * @param to    The upper bound of the range (exclusive), compared case-insensitively.
+     * @param limit The maximum number of entries to return.
+     * @return A list of at most {@code limit} entries, ordered lexicographically by name.
+     */
+    public List<T> findInRange(String from, String to, int limit) {
+        List<T> result = new ArrayList<>();
+        collectRange(root, new StringBuilder(), normalize(from), normalize(to), limit, result);
+        return result;
+    }
+
+    /**
+     * Retrieves the entries whose names are within the given edit distance of a name.
+     * <p>
+     * The edit distance is the Levenshtein distance, i.e. the number of inserted, deleted or replaced
+     * characters. The trie is searched once per distance, starting with exact matches, and each search
+     * skips the subtrees whose names all exceed that distance. The lookup stops as soon as
+     * {@code limit} entries have been found.
+     * </p>
+     *
+     * @param name        The name to look up, compared case-insensitively.
+     * @param maxDistance The maximum edit distance of a match.
+     * @param limit       The maximum number of entries to return.
+     * @return A list of at most {@code limit} entries, ordered by distance and then lexicographically by name.
+     */
+    public List<T> findSimilar(String name, int maxDistance, int limit) {
+        String target = normalize(name);
+        int[] row = new int[target.length() + 1];
+        for (int i = 0; i < row.length; i++) row[i] = i;
+
+        List<T> result = new ArrayList<>();
+        for (int distance = 0; distance <= maxDistance && result.size() < limit; distance++) {
+            if (row[target.length()] == distance) addEntries(root, limit, result);
+            for (Node<T> child : root.children()) {
+                if (result.size() >= limit) break;
+                collectSimilar(child, target, row, distance, limit, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the entries of the given node and its subtree to the result in lexicographic order.
+     *
+     * @param node   The root of the subtree to collect.
+     * @param limit  The maximum size of the result.
+     * @param result The list the entries are added to.
+     */
+    private void collect(Node<T> node, int limit, List<T> result) {
+        addEntries(node, limit, result);
+        for (Node<T> child : node.children()) {
+            if (result.size() >= limit) return;
+            collect(child, limit, result);
+        }
+    }
+
+    /**
+     * Adds the entries of the given node and its subtree whose names lie in {@code [from, to)} to the result.
+     *
+     * @param node   The current node.
+     * @param key    The name leading to the current node.
+     * @param from   The lower bound of the range (inclusive).
+     * @param to     The upper bound of the range (exclusive).
+     * @param limit  The maximum size of the result.
+     * @param result The list the entries are added to.
+     */
+    private void collectRange(Node<T> node, StringBuilder key, String from, String to, int limit, List<T> result) {
+        String name = key.toString();
+        if (name.compareTo(from) >= 0 && name.compareTo(to) < 0) addEntries(node, limit, result);
+        for (Node<T> child : node.children()) {
+            if (result.size() >= limit) return;
+            int length = key.length();
+            key.append(child.label);
+            String prefix = key.toString();
+            // every name in the subtree starts with the prefix, so it is at least the prefix itself
+            if (prefix.compareTo(to) >= 0) {
+                key.setLength(length);
+                return;
+            }
+            if (prefix.compareTo(from) >= 0 || from.startsWith(prefix)) {
+                collectRange(child, key, from, to, limit, result);
+            }
+            key.setLength(length);
+        }
+    }
+
+    /**
+     * Adds the entries of the given node and its subtree at exactly the given edit distance to the result.
+     *
+     * @param node      The current node.
+     * @param target    The name that is looked up.
+     * @param parentRow The edit distances between the parent's name and each prefix of the target.
+     * @param distance  The edit distance of the matches to add.
+     * @param limit     The maximum size of the result.
+     * @param result    The list the entries are added to.
+     */
+    private void collectSimilar(Node<T> node, String target, int[] parentRow, int distance, int limit,
+                                List<T> result) {
+        int[] row = parentRow;
+        for (int j = 0; j < node.label.length(); j++) {
+            char c = node.label.charAt(j);
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int i = 1; i < next.length; i++) {
+                int replace = row[i - 1] + (target.charAt(i - 1) == c ? 0 : 1);
+                next[i] = Math.min(replace, Math.min(next[i - 1] + 1, row[i] + 1));
+                min = Math.min(min, next[i]);
+            }
+            if (min > distance) return;
+            row = next;
+        }
+
+        if (row[target.length()] == distance) addEntries(node, limit, result);
+        for (Node<T> child : node.children()) {
+            if (result.size() >= limit) return;
+            collectSimilar(child, target, row, distance, limit, result);
+        }
+    }
+
+    /**
+     * Adds the entries stored at the given node to the result.
+     *
+     * @param node   The node whose entries are added.
+     * @param limit  The maximum size of the result.
+     * @param result The list the entries are added to.
+     */
+    private void addEntries(Node<T> node, int limit, List<T> result) {
+        if (node.entries == null) return;
+        for (T entry : node.entries) {
+            if (result.size() >= limit) return;
+            result.add(entry);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) i++;
+        return i;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node<T> {
+        private String label;
+        private TreeMap<Character, Node<T>> children;
+        private List<T> entries;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<T> child(char c) {
+            return children == null ? null : children.get(c);
+        }
+
+        private Collection<Node<T>> children() {
+            return children == null ? Collections.emptyList() : children.values();
+        }
+
+        private void putChild(Node<T> child) {
+            if (children == null) children = new TreeMap<>();
+            children.put(child.label.charAt(0), child);
+        }
+
+        private void removeChild(Node<T> child) {
+            children.remove(child.label.charAt(0));
+            if (children.isEmpty()) children = null;
+        }
+
+        private void mergeWithOnlyChild() {
+            if (entries != null || children == null || children.size() != 1) return;
+            Node<T> child = children.firstEntry().getValue();
+            label = label + child.label;
+            children = child.children;
+            entries = child.entries;
+        }
+    }
+}
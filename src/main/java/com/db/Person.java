@@ -14,6 +14,7 @@ import java.util.*;
  * <ul>
  *   <li>Stores the name and animals associated with a person.</li>
  *   <li>Supports operations to sort animals by name, ancestor count, and descendant count.</li>
+ *   <li>Keeps aggregates over the owned animals up to date as animals are added and removed.</li>
  *   <li>Implements {@code Comparable} to allow ordering of persons by name.</li>
  * </ul>
  *
@@ -22,6 +23,9 @@ import java.util.*;
 public class Person implements Comparable<Person> {
     private final String name;
     private final Map<Integer, Animal> animals;
+    private int numberOfFounders;
+    private final Map<Animal, Integer> descendantCoverage;
+    private double inbreedingSum;
 
 
     /**
@@ -42,6 +46,8 @@ public class Person implements Comparable<Person> {
     public Person(String name, Map<Integer, Animal> animals) {
         this.name = name;
         this.animals = animals;
+        this.descendantCoverage = new HashMap<>();
+        for (Animal animal : animals.values()) tally(animal);
     }
 
 
@@ -54,6 +60,47 @@ public class Person implements Comparable<Person> {
         return name;
     }
 
+    /**
+     * Retrieves the number of animals owned by this person.
+     *
+     * @return The number of animals owned by this person.
+     */
+    public int getNumberOfAnimals() {
+        return animals.size();
+    }
+
+    /**
+     * Retrieves the number of distinct descendants of this person's animals.
+     * <p>
+     * An animal descending from several of the owned animals is counted only once. The count is kept
+     * up to date as animals are added and traded, by tracking for each descendant how many of the
+     * owned animals it descends from.
+     * </p>
+     *
+     * @return The number of distinct descendants of all animals owned by this person.
+     */
+    public int getNumberOfDescendants() {
+        return descendantCoverage.size();
+    }
+
+    /**
+     * Retrieves the number of founders, i.e. animals without recorded parents, owned by this person.
+     *
+     * @return The number of founders owned by this person.
+     */
+    public int getNumberOfFounders() {
+        return numberOfFounders;
+    }
+
+    /**
+     * Retrieves the mean inbreeding coefficient of the animals owned by this person.
+     *
+     * @return The mean inbreeding coefficient, or 0 if this person owns no animals.
+     */
+    public double getMeanInbreeding() {
+        return animals.isEmpty() ? 0.0 : inbreedingSum / animals.size();
+    }
+
     /**
      * Retrieves all animals owned by this person in a sorted set.
      * <p>
@@ -151,15 +198,12 @@ public class Person implements Comparable<Person> {
         Person previousOwner = animal.getOwner();
         animal.setOwner(this);
         if (previousOwner != null) {
-            for (Map.Entry<Integer, Animal> entry : previousOwner.animals.entrySet()) {
-                if (entry.getValue().equals(animal)) {
-                    previousOwner.animals.remove(entry.getKey());
-                    break;
-                }
-            }
-            this.animals.put(animal.getId(), animal);
-
-        } else this.animals.put(animal.getId(), animal);
+            Animal removed = previousOwner.animals.remove(animal.getId());
+            if (removed != null) previousOwner.untally(removed);
+        }
+        Animal replaced = this.animals.put(animal.getId(), animal);
+        if (replaced != null) untally(replaced);
+        tally(animal);
     }
 
     /**
@@ -168,12 +212,63 @@ public class Person implements Comparable<Person> {
      * @param animal The animal to be removed.
      */
     void remove(Animal animal) {
-        for (Map.Entry<Integer, Animal> entry : this.animals.entrySet()) {
-            if (entry.getValue().equals(animal)) {
-                this.animals.remove(entry.getKey());
-                break;
-            }
-        }
+        Animal removed = this.animals.remove(animal.getId());
+        if (removed != null) untally(removed);
+    }
+
+    /**
+     * Records that a new animal has been added below one of this person's animals.
+     * <p>
+     * The {@link Database} calls this once for every ancestor of the new animal owned by this person.
+     * </p>
+     *
+     * @param descendant The newly added animal.
+     */
+    void descendantAdded(Animal descendant) {
+        cover(descendant);
+    }
+
+    /**
+     * Adds the contribution of a newly owned animal to this person's aggregates.
+     *
+     * @param animal The animal that was added.
+     */
+    private void tally(Animal animal) {
+        if (animal.isFounder()) numberOfFounders++;
+        inbreedingSum += animal.getInbreedingCoefficient();
+        for (Animal descendant : animal.getDescendants()) cover(descendant);
+    }
+
+    /**
+     * Removes the contribution of a no longer owned animal from this person's aggregates.
+     *
+     * @param animal The animal that was removed.
+     */
+    private void untally(Animal animal) {
+        if (animal.isFounder()) numberOfFounders--;
+        inbreedingSum -= animal.getInbreedingCoefficient();
+        for (Animal descendant : animal.getDescendants()) uncover(descendant);
+    }
+
+    /**
+     * Records that one more of this person's animals has the given descendant.
+     *
+     * @param descendant The descendant to be covered.
+     */
+    private void cover(Animal descendant) {
+        descendantCoverage.merge(descendant, 1, Integer::sum);
+    }
+
+    /**
+     * Records that one fewer of this person's animals has the given descendant.
+     * <p>
+     * The descendant is no longer counted once none of the owned animals has it.
+     * </p>
+     *
+     * @param descendant The descendant to be uncovered.
+     */
+    private void uncover(Animal descendant) {
+        descendantCoverage.computeIfPresent(descendant, (animal, count) -> count == 1 ? null : count - 1);
     }
 
     /**